@@ -24,6 +24,7 @@ public class Channel<In, Out> {
      * Suspends execution of the current Thread, yielding the given element to another waiting Thread, and waiting to be
      * resumed with a new input element.
      *
+     * @throws java.util.concurrent.CancellationException if the generator is closed before or while yielding
      * @throws InterruptedException if the Thread is interrupted while yielding
      */
     public In yield(Out item) throws InterruptedException {
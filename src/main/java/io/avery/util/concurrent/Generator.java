@@ -8,7 +8,7 @@ import java.util.concurrent.FutureTask;
 /**
  * A handle to an underlying "generator task" (technically, a {@link GeneratorCallable}), that enables resuming the task
  * when it is suspended at yield-points (see {@link #next(Object) next()}). The eventual result of the task can also be
- * examined via {@link #future()}, and the task can be cancelled via {@link #close()}.
+ * examined via {@link #future()}, and the task can be cancelled via {@link #close()} or {@link #cancel()}.
  *
  * <p>Note that every generator task is initially yielding, and starts upon the first call to
  * {@link #next(Object) next()}.
@@ -81,16 +81,30 @@ public class Generator<In, Out, R> implements AutoCloseable {
         future.cancel(true);
     }
     
+    /**
+     * Closes the generator, by cancelling the underlying generator task without interrupting it, if not already
+     * completed. If the task is suspended at a yield-point, it is resumed by throwing CancellationException from
+     * {@link Channel#yield(Object) yield()}; if it is running, the same happens at its next yield-point.
+     *
+     * <p>Unlike {@link #close()}, this never interrupts the generator thread. As a consequence, a generator task that
+     * blocks on something other than its Channel will not be woken.
+     */
+    public void cancel() {
+        future.cancel(false);
+    }
+    
     /**
      * This subclass of FutureTask is used so that:
      * <ul>
      *     <li>If we cancel the generator task before it runs, the PingPong is still closed, so {@link #next} stops
      *     blocking.
+     *     <li>If we cancel the generator task while it is yielding, closing the PingPong resumes it with
+     *     CancellationException, even without an interrupt (see {@link #cancel}).
      *     <li>The PingPong is closed strictly after the Future completes. So if {@link #next} returns null, the Future
      *     is guaranteed to be complete, making methods like {@link Future#resultNow} and {@link Future#exceptionNow}
      *     safe to call (after checking {@link Future#state}). Likewise, if {@link #next} returns null, subsequent calls
-     *     to {@link Future#cancel} (including via {@link #close}) will do nothing, and will not affect the generator's
-     *     result.
+     *     to {@link Future#cancel} (including via {@link #close} or {@link #cancel}) will do nothing, and will not
+     *     affect the generator's result.
      * </ul>
      */
     private class GeneratorFuture extends FutureTask<R> {
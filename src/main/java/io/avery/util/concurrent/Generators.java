@@ -1,6 +1,11 @@
 package io.avery.util.concurrent;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
@@ -73,4 +78,89 @@ public class Generators {
             return gen.future();
         }
     }
+    
+    /**
+     * Returns a {@link GeneratorCallable} object that, when called, performs a k-way merge of the given generators,
+     * yielding their elements in the order imposed by the given comparator. Each generator is expected to yield its
+     * own elements in that order. Elements that compare equal are yielded in the order of their generators in the list.
+     *
+     * <p>The merge keeps the current head element of each generator in a heap, so each step costs {@code O(log k)}
+     * comparisons and exactly one {@link Generator#next(Object) next()} on the generator whose head was yielded.
+     *
+     * <p>The task returns the generators' future results, in list order. If any generator completes without success,
+     * the merge fails: with ExecutionException wrapping the generator's exception, or with CancellationException if the
+     * generator was cancelled. This way a failed generator cannot silently truncate the merged output.
+     *
+     * <p>The generators are always closed (as if by {@link #closeAll}) when the task completes, so if the merge is
+     * cancelled or fails, the remaining generators are cancelled too. Only a generator that is running when the merge
+     * is interrupted is itself interrupted.
+     *
+     * @throws NullPointerException if comparator or generators (or any of its elements) is null
+     */
+    public static <T> GeneratorCallable<Void, T, List<Future<?>>> mergeSorted(
+        Comparator<? super T> comparator,
+        List<? extends Generator<Void, ? extends T, ?>> generators
+    ) {
+        Objects.requireNonNull(comparator);
+        List<Generator<Void, ? extends T, ?>> gens = List.copyOf(generators);
+        Comparator<Head<T>> order = (a, b) -> {
+            int c = comparator.compare(a.value, b.value);
+            return c != 0 ? c : Integer.compare(a.index, b.index);
+        };
+        return chan -> {
+            try {
+                var heap = new PriorityQueue<>(Math.max(1, gens.size()), order);
+                for (int i = 0; i < gens.size(); i++) {
+                    pull(gens.get(i), i, heap);
+                }
+                for (Head<T> head; (head = heap.poll()) != null;) {
+                    chan.yield(head.value);
+                    pull(gens.get(head.index), head.index, heap);
+                }
+                return gens.stream().<Future<?>>map(Generator::future).toList();
+            } finally {
+                closeAll(gens);
+            }
+        };
+    }
+    
+    /**
+     * Closes all given generators without interrupting them, as if by calling {@link Generator#cancel()} on each.
+     * Generators that are suspended at a yield-point are resumed with CancellationException.
+     *
+     * <p>Unlike calling {@link Generator#close()} on each, this never interrupts the generator threads, so the
+     * generator tasks unwind from their yield-points rather than via InterruptedException.
+     *
+     * @throws NullPointerException if generators (or any of its elements) is null
+     */
+    public static void closeAll(Collection<? extends Generator<?, ?, ?>> generators) {
+        for (var gen : generators) {
+            gen.cancel();
+        }
+    }
+    
+    /**
+     * Advances the given generator, adding its next element to the heap, or rethrowing its failure if it completed
+     * without success.
+     */
+    private static <T> void pull(
+        Generator<Void, ? extends T, ?> gen,
+        int index,
+        PriorityQueue<Head<T>> heap
+    ) throws InterruptedException, ExecutionException {
+        T value;
+        try {
+            value = gen.next(null);
+        } catch (InterruptedException e) {
+            gen.close(); // The generator is running, not suspended, so it may need an interrupt to wake up
+            throw e;
+        }
+        if (value != null) {
+            heap.add(new Head<>(value, index));
+        } else if (gen.future().state() != Future.State.SUCCESS) {
+            gen.future().get(); // Future is complete, so this just throws
+        }
+    }
+    
+    private record Head<T>(T value, int index) {}
 }
@@ -1,6 +1,7 @@
 package io.avery.util.concurrent;
 
 import java.util.ConcurrentModificationException;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -19,8 +20,9 @@ import java.util.concurrent.locks.ReentrantLock;
  * {@code pong.yield()}, then Ping suspends itself.
  *
  * <p>This proceeds until the Pong-side calls Pong.{@link Pong#close() close()}, at which point any suspended threads
- * are woken up, further calls to {@code next()} return {@code null}, and further calls to {@code yield()} throw an
- * unspecified Exception (probably CME).
+ * are woken up, further calls to {@code next()} return {@code null}, and further calls to {@code yield()} throw
+ * CancellationException. A Pong-side suspended in {@code yield()} when the PingPong is closed (eg because the generator
+ * task was cancelled) is likewise woken up with CancellationException, without needing to be interrupted.
  *
  * @param <In> the type of "input" elements (passed in to Ping.{@link Ping#next(Object) next()}, returned from
  *            Pong.{@link Pong#yield(Object) yield()})
@@ -98,28 +100,31 @@ public class PingPong<In, Out> {
     public class Pong implements AutoCloseable {
         
         /**
-         * Wakes up a waiting Ping-side, passing the given value to it, and suspending until one of 2 events happens:
+         * Wakes up a waiting Ping-side, passing the given value to it, and suspending until one of 3 events happens:
          * <ul>
          *     <li>The Ping-side calls {@link Ping#next(Object) next()}, passing in a value that is returned from this
          *     method.
+         *     <li>The PingPong is {@link #close() closed}, and this method throws CancellationException.
          *     <li>The thread is interrupted, and this method throws InterruptedException.
          * </ul>
          *
          * @param item the value to pass to the Ping-side
          * @return the eventual value received from the Ping-side
+         * @throws CancellationException if the PingPong is closed before or while yielding
          * @throws InterruptedException if the Thread is interrupted while yielding
          */
         public In yield(Out item) throws InterruptedException {
             lock.lockInterruptibly();
             try {
                 if (item == null && state != State.NEW) throw new NullPointerException();
-                if (state == State.YIELDING || state == State.DONE) throw new ConcurrentModificationException("Concurrent call to yield()");
+                if (state == State.DONE) throw new ClosedException();
+                if (state == State.YIELDING) throw new ConcurrentModificationException("Concurrent call to yield()");
                 // assert state == State.RUNNING || state == State.NEW;
                 value = item;
                 state = State.YIELDING;
                 cond.signalAll();
                 while (state == State.YIELDING) cond.await();
-                if (state == State.DONE) throw new ConcurrentModificationException("Concurrent call to yield()");
+                if (state == State.DONE) throw new ClosedException();
                 // assert state == State.RUNNING;
                 @SuppressWarnings("unchecked")
                 In in = (In) value;
@@ -143,5 +148,22 @@ public class PingPong<In, Out> {
             }
         }
     }
+    
+    /**
+     * Thrown from {@link Pong#yield(Object) yield()} when the PingPong is closed. This exception only exists to unwind
+     * the Pong-side, so it skips filling in its stack trace.
+     */
+    private static class ClosedException extends CancellationException {
+        private static final long serialVersionUID = 1L;
+        
+        ClosedException() {
+            super("PingPong closed");
+        }
+        
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
 }
 
@@ -3,8 +3,16 @@ package io.avery.util.concurrent;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -75,6 +83,43 @@ class GeneratorTest {
         }
     }
     
+    @Test
+    void testCancellationWithoutInterrupt() throws InterruptedException {
+        var unwound = new CompletableFuture<Throwable>();
+        try (var exec = Executors.newVirtualThreadPerTaskExecutor();
+             var gen = new Generator<>(exec, unwindRecorder(unwound))
+        ) {
+            assertEquals(0, gen.next(null));
+            gen.cancel();
+            
+            assertNull(gen.next(null));
+            assertTrue(gen.future().isCancelled());
+            assertInstanceOf(CancellationException.class, unwound.join());
+        }
+    }
+    
+    @Test
+    void testCloseAll() throws InterruptedException {
+        try (var exec = Executors.newVirtualThreadPerTaskExecutor()) {
+            var gens = new ArrayList<Generator<Void, Integer, Void>>();
+            var unwounds = new ArrayList<CompletableFuture<Throwable>>();
+            for (int i = 0; i < 100; i++) {
+                var unwound = new CompletableFuture<Throwable>();
+                var gen = new Generator<Void, Integer, Void>(exec, unwindRecorder(unwound));
+                gen.next(null);
+                gens.add(gen);
+                unwounds.add(unwound);
+            }
+            Generators.closeAll(gens);
+            
+            for (int i = 0; i < gens.size(); i++) {
+                assertNull(gens.get(i).next(null));
+                assertTrue(gens.get(i).future().isCancelled());
+                assertInstanceOf(CancellationException.class, unwounds.get(i).join());
+            }
+        }
+    }
+    
     @Test
     void testLateCancellation() throws InterruptedException {
         try (var exec = Executors.newVirtualThreadPerTaskExecutor();
@@ -109,6 +154,126 @@ class GeneratorTest {
         }
     }
     
+    @Test
+    void testMergeSorted() throws InterruptedException {
+        try (var exec = Executors.newVirtualThreadPerTaskExecutor();
+             var gen = new Generator<>(exec, Generators.mergeSorted(Comparator.<Integer>naturalOrder(), List.of(
+                 source(exec, "a", 1, 4),
+                 source(exec, "b"),
+                 source(exec, "c", 2, 3)
+             )))
+        ) {
+            var actual = new ArrayList<Integer>();
+            for (Integer num; (num = gen.next(null)) != null;) {
+                actual.add(num);
+            }
+            
+            assertEquals(List.of(1, 2, 3, 4), actual);
+            assertEquals(List.of("a", "b", "c"), gen.future().resultNow().stream().map(f -> f.resultNow()).toList());
+        }
+    }
+    
+    @Test
+    void testMergeSortedTies() throws InterruptedException {
+        try (var exec = Executors.newVirtualThreadPerTaskExecutor();
+             var gen = new Generator<>(exec, Generators.mergeSorted(
+                 Comparator.comparingInt((Integer n) -> n / 10), // Compare by tens digit only
+                 List.of(source(exec, "a", 11, 21), source(exec, "b", 10, 20, 22))
+             ))
+        ) {
+            var actual = new ArrayList<Integer>();
+            for (Integer num; (num = gen.next(null)) != null;) {
+                actual.add(num);
+            }
+            
+            assertEquals(List.of(11, 10, 21, 20, 22), actual);
+        }
+    }
+    
+    @Test
+    void testMergeSortedEmpty() throws InterruptedException {
+        try (var exec = Executors.newVirtualThreadPerTaskExecutor();
+             var gen = new Generator<>(exec, Generators.mergeSorted(Comparator.<Integer>naturalOrder(), List.of()))
+        ) {
+            assertNull(gen.next(null));
+            assertEquals(List.of(), gen.future().resultNow());
+        }
+    }
+    
+    @Test
+    void testMergeSortedFailure() throws InterruptedException {
+        Generator<Void, Integer, ?> failing;
+        Generator<Void, Integer, ?> healthy;
+        Generator<Void, Integer, List<Future<?>>> gen;
+        var actual = new ArrayList<Integer>();
+        try (var exec = Executors.newVirtualThreadPerTaskExecutor()) {
+            failing = new Generator<>(exec, GeneratorTest::failer);
+            healthy = source(exec, "b", 2, 3);
+            var sources = List.of(failing, healthy);
+            gen = new Generator<>(exec, Generators.mergeSorted(Comparator.<Integer>naturalOrder(), sources));
+            for (Integer num; (num = gen.next(null)) != null;) {
+                actual.add(num);
+            }
+        } // Waits for the merge to finish closing its sources
+        
+        assertEquals(List.of(1), actual);
+        var e = assertInstanceOf(ExecutionException.class, gen.future().exceptionNow());
+        assertInstanceOf(StaleGreetingException.class, e.getCause());
+        assertInstanceOf(StaleGreetingException.class, failing.future().exceptionNow());
+        assertTrue(healthy.future().isCancelled());
+    }
+    
+    @Test
+    void testMergeSortedCancellation() throws InterruptedException {
+        var sources = new ArrayList<Generator<Void, Integer, String>>();
+        Generator<Void, Integer, List<Future<?>>> gen;
+        try (var exec = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 10; i++) {
+                sources.add(source(exec, "done", i, i + 10, i + 20));
+            }
+            gen = new Generator<>(exec, Generators.mergeSorted(Comparator.<Integer>naturalOrder(), sources));
+            assertEquals(0, gen.next(null));
+            assertEquals(1, gen.next(null));
+            gen.close();
+            
+            assertNull(gen.next(null));
+        } // Waits for the merge to finish closing its sources
+        
+        assertTrue(gen.future().isCancelled());
+        for (var source : sources) {
+            assertTrue(source.future().isCancelled());
+        }
+    }
+    
+    @Test
+    void testMergeSortedInterruptsRunningSource() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var interrupted = new CompletableFuture<Boolean>();
+        Generator<Void, Integer, List<Future<?>>> gen;
+        try (var exec = Executors.newVirtualThreadPerTaskExecutor()) {
+            var blocked = new Generator<>(exec, (Channel<Void, Integer> chan) -> {
+                started.countDown();
+                try {
+                    new CountDownLatch(1).await(10, TimeUnit.SECONDS); // Blocks on something other than the Channel
+                    interrupted.complete(false);
+                } catch (InterruptedException e) {
+                    interrupted.complete(true);
+                    throw e;
+                }
+                chan.yield(1);
+                return "a";
+            });
+            gen = new Generator<>(exec, Generators.mergeSorted(Comparator.<Integer>naturalOrder(), List.of(blocked)));
+            var merge = gen;
+            exec.submit(() -> { started.await(); merge.close(); return null; });
+            
+            assertNull(gen.next(null));
+        } // Waits for the merge to finish closing its sources
+        
+        assertTrue(gen.future().isCancelled());
+        assertTrue(interrupted.join());
+    }
+    
     private static class StaleGreetingException extends Exception {}
     
     private static String greeter(Channel<String, String> chan) throws InterruptedException, StaleGreetingException {
@@ -118,6 +283,31 @@ class GeneratorTest {
         return "%s, %s!".formatted(greeting, name);
     }
     
+    private static Generator<Void, Integer, String> source(Executor exec, String result, Integer... values) {
+        return new Generator<>(exec, (Channel<Void, Integer> chan) -> {
+            for (Integer value : values) {
+                chan.yield(value);
+            }
+            return result;
+        });
+    }
+    
+    private static GeneratorRunnable<Void, Integer> unwindRecorder(CompletableFuture<Throwable> unwound) {
+        return chan -> {
+            try {
+                counter(chan);
+            } catch (Throwable e) {
+                unwound.complete(Thread.currentThread().isInterrupted() ? null : e);
+                throw e;
+            }
+        };
+    }
+    
+    private static void failer(Channel<Void, Integer> chan) throws InterruptedException, StaleGreetingException {
+        chan.yield(1);
+        throw new StaleGreetingException();
+    }
+    
     private static String repeater(Channel<Void, Integer> chan) throws InterruptedException {
         for (int i = 0; i < 10; i++) {
             Generators.yieldAll(chan, GeneratorTest::counter);